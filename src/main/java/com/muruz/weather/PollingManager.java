@@ -12,16 +12,25 @@ import java.util.concurrent.*;
  */
 public class PollingManager {
     private static final Logger logger = LoggerFactory.getLogger(PollingManager.class);
-    private static final long POLL_INTERVAL_MS = 10 * 60 * 1000;
+    public static final long DEFAULT_POLL_INTERVAL_MS = 10 * 60 * 1000;
 
     private final WeatherAPIClient apiClient;
     private final WeatherCache cache;
     private final ScheduledExecutorService scheduler;
+    private final long pollIntervalMs;
     private volatile boolean isRunning = false;
 
     public PollingManager(WeatherAPIClient apiClient, WeatherCache cache) {
+        this(apiClient, cache, DEFAULT_POLL_INTERVAL_MS);
+    }
+
+    public PollingManager(WeatherAPIClient apiClient, WeatherCache cache, long pollIntervalMs) {
+        if (pollIntervalMs <= 0) {
+            throw new IllegalArgumentException("Poll interval must be positive.");
+        }
         this.apiClient = apiClient;
         this.cache = cache;
+        this.pollIntervalMs = pollIntervalMs;
         this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "WeatherSDK-Poller");
             t.setDaemon(true);
@@ -31,7 +40,7 @@ public class PollingManager {
 
     public void start() {
         if (!isRunning) {
-            scheduler.scheduleAtFixedRate(this::pollAllCities, 0, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(this::pollAllCities, 0, pollIntervalMs, TimeUnit.MILLISECONDS);
             isRunning = true;
             logger.info("Polling manager started.");
         }
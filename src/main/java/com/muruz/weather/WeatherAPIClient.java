@@ -15,13 +15,29 @@ import java.util.Objects;
  */
 public class WeatherAPIClient {
     private static final Logger logger = LoggerFactory.getLogger(WeatherAPIClient.class);
-    private static final String BASE_URL = "https://api.openweathermap.org/data/2.5/weather";
+    public static final String DEFAULT_BASE_URL = "https://api.openweathermap.org/data/2.5/weather";
     private final OkHttpClient httpClient;
     private final String apiKey;
+    private final HttpUrl baseUrl;
     private final Gson gson;
 
     public WeatherAPIClient(String apiKey) {
+        this(apiKey, DEFAULT_BASE_URL);
+    }
+
+    /**
+     * Creates a client that sends requests to the given endpoint instead of the public API,
+     * e.g. a local simulator used for load testing.
+     *
+     * @param apiKey  The OpenWeatherMap API key.
+     * @param baseUrl The full URL of the current weather endpoint.
+     */
+    public WeatherAPIClient(String apiKey, String baseUrl) {
         this.apiKey = Objects.requireNonNull(apiKey, "API Key cannot be null");
+        this.baseUrl = HttpUrl.parse(Objects.requireNonNull(baseUrl, "Base URL cannot be null"));
+        if (this.baseUrl == null) {
+            throw new IllegalArgumentException("Invalid base URL: " + baseUrl);
+        }
         this.httpClient = new OkHttpClient.Builder()
                 .build();
         this.gson = new Gson();
@@ -35,7 +51,7 @@ public class WeatherAPIClient {
      * @throws WeatherSDKException If an error occurs during the API call.
      */
     public String fetchWeatherData(String cityName) throws WeatherSDKException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(BASE_URL).newBuilder()
+        HttpUrl.Builder urlBuilder = baseUrl.newBuilder()
                 .addQueryParameter("q", cityName)
                 .addQueryParameter("appid", apiKey)
                 .addQueryParameter("units", "metric"); // Optional: get temperature in Celsius
@@ -20,6 +20,8 @@ public class WeatherSDK {
     private final PollingManager pollingManager;
     private final Mode mode;
     private final String apiKey;
+    private final String baseUrl;
+    private final long pollIntervalMs;
 
     public enum Mode {
         ON_DEMAND, POLLING
@@ -28,11 +30,13 @@ public class WeatherSDK {
     private WeatherSDK(WeatherSDKConfig config) {
         this.apiKey = config.getApiKey();
         this.mode = config.getMode();
-        this.apiClient = new WeatherAPIClient(this.apiKey);
+        this.baseUrl = config.getBaseUrl();
+        this.pollIntervalMs = config.getPollIntervalMs();
+        this.apiClient = new WeatherAPIClient(this.apiKey, this.baseUrl);
         this.cache = new WeatherCache();
 
         if (this.mode == Mode.POLLING) {
-            this.pollingManager = new PollingManager(this.apiClient, this.cache);
+            this.pollingManager = new PollingManager(this.apiClient, this.cache, config.getPollIntervalMs());
             this.pollingManager.start();
         } else {
             this.pollingManager = null;
@@ -46,10 +50,31 @@ public class WeatherSDK {
      *
      * @param config The configuration containing the API key and mode.
      * @return The SDK instance for the specified API key.
+     * @throws IllegalStateException If an instance for this API key already exists with a different
+     *                               mode, base URL or poll interval.
      */
     public static WeatherSDK getInstance(WeatherSDKConfig config) {
         String key = config.getApiKey();
-        return instances.computeIfAbsent(key, k -> new WeatherSDK(config));
+        WeatherSDK instance = instances.computeIfAbsent(key, k -> new WeatherSDK(config));
+        String mismatch = instance.describeMismatch(config);
+        if (mismatch != null) {
+            throw new IllegalStateException("An SDK instance for this API key already exists with a different "
+                    + mismatch + "; destroy it before requesting a new configuration.");
+        }
+        return instance;
+    }
+
+    private String describeMismatch(WeatherSDKConfig config) {
+        if (mode != config.getMode()) {
+            return "mode (" + mode + " vs " + config.getMode() + ")";
+        }
+        if (!baseUrl.equals(config.getBaseUrl())) {
+            return "base URL (" + baseUrl + " vs " + config.getBaseUrl() + ")";
+        }
+        if (pollIntervalMs != config.getPollIntervalMs()) {
+            return "poll interval (" + pollIntervalMs + " ms vs " + config.getPollIntervalMs() + " ms)";
+        }
+        return null;
     }
 
     /**
@@ -8,10 +8,17 @@ import java.util.Objects;
 public class WeatherSDKConfig {
     private final String apiKey;
     private final WeatherSDK.Mode mode;
+    private final String baseUrl;
+    private final long pollIntervalMs;
 
     private WeatherSDKConfig(Builder builder) {
         this.apiKey = Objects.requireNonNull(builder.apiKey, "API Key cannot be null");
         this.mode = Objects.requireNonNull(builder.mode, "Mode cannot be null");
+        this.baseUrl = Objects.requireNonNull(builder.baseUrl, "Base URL cannot be null");
+        if (builder.pollIntervalMs <= 0) {
+            throw new IllegalArgumentException("Poll interval must be positive.");
+        }
+        this.pollIntervalMs = builder.pollIntervalMs;
     }
 
     public String getApiKey() {
@@ -22,6 +29,14 @@ public class WeatherSDKConfig {
         return mode;
     }
 
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public long getPollIntervalMs() {
+        return pollIntervalMs;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -29,6 +44,8 @@ public class WeatherSDKConfig {
     public static class Builder {
         private String apiKey;
         private WeatherSDK.Mode mode;
+        private String baseUrl = WeatherAPIClient.DEFAULT_BASE_URL;
+        private long pollIntervalMs = PollingManager.DEFAULT_POLL_INTERVAL_MS;
 
         public Builder apiKey(String apiKey) {
             this.apiKey = apiKey;
@@ -40,6 +57,24 @@ public class WeatherSDKConfig {
             return this;
         }
 
+        /**
+         * Overrides the OpenWeatherMap endpoint, e.g. to point the SDK at a local simulator.
+         * Defaults to {@link WeatherAPIClient#DEFAULT_BASE_URL}.
+         */
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        /**
+         * Sets how often cached cities are refreshed in POLLING mode.
+         * Defaults to {@link PollingManager#DEFAULT_POLL_INTERVAL_MS} (10 minutes).
+         */
+        public Builder pollIntervalMs(long pollIntervalMs) {
+            this.pollIntervalMs = pollIntervalMs;
+            return this;
+        }
+
         public WeatherSDKConfig build() {
             return new WeatherSDKConfig(this);
         }
@@ -0,0 +1,58 @@
+package com.muruz.weather;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSDKConfigTest {
+
+    private static WeatherSDKConfig.Builder validBuilder() {
+        return WeatherSDKConfig.builder()
+                .apiKey("key")
+                .mode(WeatherSDK.Mode.ON_DEMAND);
+    }
+
+    @Test
+    void defaultsToPublicEndpointAndTenMinutePolling() {
+        WeatherSDKConfig config = validBuilder().build();
+
+        assertEquals(WeatherAPIClient.DEFAULT_BASE_URL, config.getBaseUrl());
+        assertEquals(PollingManager.DEFAULT_POLL_INTERVAL_MS, config.getPollIntervalMs());
+        assertEquals(10 * 60 * 1000, config.getPollIntervalMs());
+    }
+
+    @Test
+    void keepsOverriddenBaseUrlAndPollInterval() {
+        WeatherSDKConfig config = validBuilder()
+                .baseUrl("http://127.0.0.1:8080/data/2.5/weather")
+                .pollIntervalMs(5_000)
+                .build();
+
+        assertEquals("http://127.0.0.1:8080/data/2.5/weather", config.getBaseUrl());
+        assertEquals(5_000, config.getPollIntervalMs());
+    }
+
+    @Test
+    void rejectsNullBaseUrl() {
+        assertThrows(NullPointerException.class, () -> validBuilder().baseUrl(null).build());
+    }
+
+    @Test
+    void rejectsNonPositivePollInterval() {
+        assertThrows(IllegalArgumentException.class, () -> validBuilder().pollIntervalMs(0).build());
+        assertThrows(IllegalArgumentException.class, () -> validBuilder().pollIntervalMs(-1).build());
+    }
+
+    @Test
+    void rejectsMissingApiKeyOrMode() {
+        assertThrows(NullPointerException.class,
+                () -> WeatherSDKConfig.builder().mode(WeatherSDK.Mode.ON_DEMAND).build());
+        assertThrows(NullPointerException.class,
+                () -> WeatherSDKConfig.builder().apiKey("key").build());
+    }
+
+    @Test
+    void apiClientRejectsInvalidBaseUrl() {
+        assertThrows(IllegalArgumentException.class, () -> new WeatherAPIClient("key", "not a url"));
+    }
+}
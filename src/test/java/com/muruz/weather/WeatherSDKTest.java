@@ -0,0 +1,121 @@
+package com.muruz.weather;
+
+import com.muruz.weather.exceptions.CityNotFoundException;
+import com.muruz.weather.exceptions.InvalidApiKeyException;
+import com.muruz.weather.loadtest.OpenWeatherMapSimulator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSDKTest {
+    private static OpenWeatherMapSimulator simulator;
+    private final List<WeatherSDK> created = new ArrayList<>();
+
+    @BeforeAll
+    static void startSimulator() throws Exception {
+        simulator = OpenWeatherMapSimulator.builder()
+                .cityCount(100)
+                .latency(0, 0)
+                .requiredApiKey("valid-key")
+                .build();
+        simulator.start();
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        simulator.stop();
+    }
+
+    @AfterEach
+    void destroyInstances() {
+        created.forEach(WeatherSDK::destroy);
+    }
+
+    private WeatherSDK create(WeatherSDKConfig config) {
+        WeatherSDK sdk = WeatherSDK.getInstance(config);
+        created.add(sdk);
+        return sdk;
+    }
+
+    private static WeatherSDKConfig.Builder config(String apiKey) {
+        return WeatherSDKConfig.builder()
+                .apiKey(apiKey)
+                .mode(WeatherSDK.Mode.ON_DEMAND)
+                .baseUrl(simulator.getBaseUrl());
+    }
+
+    @Test
+    void returnsSameInstanceForSameConfig() {
+        WeatherSDK first = create(config("valid-key").build());
+        WeatherSDK second = WeatherSDK.getInstance(config("valid-key").build());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void rejectsCachedInstanceWithDifferentBaseUrl() {
+        create(config("valid-key").build());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> WeatherSDK.getInstance(config("valid-key").baseUrl(WeatherAPIClient.DEFAULT_BASE_URL).build()));
+        assertTrue(e.getMessage().contains("base URL"));
+    }
+
+    @Test
+    void rejectsCachedInstanceWithDifferentPollInterval() {
+        create(config("valid-key").mode(WeatherSDK.Mode.POLLING).pollIntervalMs(60_000).build());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> WeatherSDK.getInstance(config("valid-key").mode(WeatherSDK.Mode.POLLING).build()));
+        assertTrue(e.getMessage().contains("poll interval"));
+    }
+
+    @Test
+    void rejectsCachedInstanceWithDifferentMode() {
+        create(config("valid-key").build());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> WeatherSDK.getInstance(config("valid-key").mode(WeatherSDK.Mode.POLLING).build()));
+        assertTrue(e.getMessage().contains("mode"));
+    }
+
+    @Test
+    void allowsNewConfigAfterDestroy() {
+        WeatherSDK first = WeatherSDK.getInstance(config("valid-key").build());
+        first.destroy();
+
+        WeatherSDK second = create(config("valid-key").pollIntervalMs(1_000).build());
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void fetchesFromBaseUrlAndServesRepeatsFromCache() throws Exception {
+        WeatherSDK sdk = create(config("valid-key").build());
+        OpenWeatherMapSimulator.Stats before = simulator.getStats();
+
+        WeatherData first = sdk.getWeather("City-00007");
+        WeatherData second = sdk.getWeather("City-00007");
+
+        assertEquals("City-00007", first.name);
+        assertNotNull(first.main);
+        assertFalse(first.weather.isEmpty());
+        assertSame(first, second);
+        assertEquals(1, simulator.getStats().since(before).totalRequests);
+    }
+
+    @Test
+    void mapsSimulatorErrorsToTypedExceptions() {
+        WeatherSDK sdk = create(config("valid-key").build());
+        assertThrows(CityNotFoundException.class, () -> sdk.getWeather("Atlantis"));
+
+        WeatherSDK wrongKey = create(config("wrong-key").build());
+        assertThrows(InvalidApiKeyException.class, () -> wrongKey.getWeather("City-00001"));
+    }
+}
@@ -0,0 +1,303 @@
+package com.muruz.weather.loadtest;
+
+import com.muruz.weather.WeatherSDK;
+import com.muruz.weather.exceptions.WeatherSDKException;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for {@link WeatherSDK#getWeather(String)}.
+ * Requests are issued at a constant arrival rate regardless of how quickly earlier ones complete,
+ * and latency is measured from each request's scheduled start time, so queueing delay caused by
+ * a slow SDK or upstream is included in the reported percentiles.
+ */
+public class LoadGenerator {
+    private static final long DRAIN_TIMEOUT_MINUTES = 5;
+
+    private final WeatherSDK sdk;
+    private final OpenWeatherMapSimulator simulator;
+    private final double requestsPerSecond;
+    private final long durationMs;
+    private final long warmupMs;
+    private final int workerThreads;
+    private final int keyCount;
+    private final double zipfExponent;
+
+    private LoadGenerator(Builder builder) {
+        this.sdk = Objects.requireNonNull(builder.sdk, "SDK cannot be null");
+        this.simulator = Objects.requireNonNull(builder.simulator, "Simulator cannot be null");
+        if (builder.requestsPerSecond <= 0 || builder.durationMs <= 0 || builder.workerThreads <= 0) {
+            throw new IllegalArgumentException("Rate, duration and worker threads must be positive.");
+        }
+        this.requestsPerSecond = builder.requestsPerSecond;
+        if (builder.warmupMs < 0) {
+            throw new IllegalArgumentException("Warmup cannot be negative.");
+        }
+        this.durationMs = builder.durationMs;
+        this.warmupMs = builder.warmupMs;
+        this.workerThreads = builder.workerThreads;
+        if (builder.keyCount < 0) {
+            throw new IllegalArgumentException("Key count cannot be negative.");
+        }
+        if (builder.keyCount > simulator.getCityCount()) {
+            throw new IllegalArgumentException("Key count " + builder.keyCount
+                    + " exceeds the simulator's city count " + simulator.getCityCount() + ".");
+        }
+        this.keyCount = builder.keyCount > 0 ? builder.keyCount : simulator.getCityCount();
+        this.zipfExponent = builder.zipfExponent;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the warmup, if any, and then the load for the configured duration, waiting for all
+     * in-flight requests of each phase to complete. Only the measured phase is reported.
+     *
+     * @return The aggregated results of the measured phase.
+     * @throws IllegalStateException If the warmup or measured phase does not drain within the timeout.
+     */
+    public Report run() throws InterruptedException {
+        ZipfDistribution keys = new ZipfDistribution(keyCount, zipfExponent);
+        ExecutorService workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread t = new Thread(r, "WeatherSDK-LoadWorker");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            if (warmupMs > 0) {
+                runPhase(keys, workers, warmupMs);
+            }
+            OpenWeatherMapSimulator.Stats before = simulator.getStats();
+            Phase phase = runPhase(keys, workers, durationMs);
+            OpenWeatherMapSimulator.Stats upstream = simulator.getStats().since(before);
+
+            Map<String, Long> failureCounts = new TreeMap<>();
+            phase.failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+            return new Report(sdk.getMode(), requestsPerSecond, phase.requests, phase.successes.sum(), failureCounts,
+                    phase.elapsedNanos, phase.latencies.sortedSnapshot(), upstream);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Phase runPhase(ZipfDistribution keys, ExecutorService workers, long phaseMs) throws InterruptedException {
+        long totalRequests = Math.max(1, Math.round(requestsPerSecond * phaseMs / 1000.0));
+        long intervalNanos = Math.round(1e9 / requestsPerSecond);
+        Phase phase = new Phase(totalRequests);
+        CountDownLatch completed = new CountDownLatch((int) Math.min(totalRequests, Integer.MAX_VALUE));
+
+        long start = System.nanoTime();
+        for (long i = 0; i < totalRequests; i++) {
+            long scheduledAt = start + i * intervalNanos;
+            long delay;
+            while ((delay = scheduledAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            String city = OpenWeatherMapSimulator.cityName(keys.sample());
+            workers.execute(() -> {
+                try {
+                    sdk.getWeather(city);
+                    phase.successes.increment();
+                } catch (WeatherSDKException | RuntimeException e) {
+                    phase.failures.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                } finally {
+                    phase.latencies.record(System.nanoTime() - scheduledAt);
+                    completed.countDown();
+                }
+            });
+        }
+        if (!completed.await(DRAIN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            throw new IllegalStateException(completed.getCount() + " of " + totalRequests
+                    + " requests were still in flight " + DRAIN_TIMEOUT_MINUTES + " minutes after the phase ended.");
+        }
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    /**
+     * Counters for one phase of a run, so that warmup traffic never reaches the report.
+     */
+    private static class Phase {
+        final long requests;
+        final LatencyRecorder latencies;
+        final LongAdder successes = new LongAdder();
+        final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+        long elapsedNanos;
+
+        Phase(long requests) {
+            this.requests = requests;
+            this.latencies = new LatencyRecorder((int) Math.min(requests, 1 << 20));
+        }
+    }
+
+    /**
+     * Collects latency samples from the worker threads.
+     */
+    private static class LatencyRecorder {
+        private long[] samples;
+        private int size;
+
+        LatencyRecorder(int expected) {
+            this.samples = new long[Math.max(16, expected)];
+        }
+
+        synchronized void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized long[] sortedSnapshot() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Result of a single load run.
+     */
+    public static class Report {
+        public final WeatherSDK.Mode mode;
+        public final double offeredRate;
+        public final long requests;
+        public final long successes;
+        public final Map<String, Long> failures;
+        public final long elapsedNanos;
+        public final OpenWeatherMapSimulator.Stats upstream;
+        private final long[] sortedLatencies;
+
+        Report(WeatherSDK.Mode mode, double offeredRate, long requests, long successes, Map<String, Long> failures,
+               long elapsedNanos, long[] sortedLatencies, OpenWeatherMapSimulator.Stats upstream) {
+            this.mode = mode;
+            this.offeredRate = offeredRate;
+            this.requests = requests;
+            this.successes = successes;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = sortedLatencies;
+            this.upstream = upstream;
+        }
+
+        /**
+         * @return Completed SDK calls per second, including failed ones.
+         */
+        public double throughput() {
+            return sortedLatencies.length / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * @param percentile Value between 0 and 100.
+         * @return The latency at the given percentile in milliseconds.
+         */
+        public double latencyMs(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return Double.NaN;
+            }
+            int idx = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(idx, sortedLatencies.length - 1))] / 1e6;
+        }
+
+        /**
+         * @return Upstream HTTP calls (including background polling) per SDK call.
+         */
+        public double amplification() {
+            return requests == 0 ? 0 : (double) upstream.totalRequests / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "Mode: %s\n" +
+                            "Offered rate: %.1f req/s, achieved throughput: %.1f req/s\n" +
+                            "SDK calls: %d (ok: %d, failed: %s)\n" +
+                            "Latency ms: p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f\n" +
+                            "Upstream calls: %d (200: %d, 404: %d, 429: %d, 5xx: %d), amplification: %.3f",
+                    mode, offeredRate, throughput(),
+                    requests, successes, failures.isEmpty() ? "0" : failures.toString(),
+                    latencyMs(50), latencyMs(90), latencyMs(99), latencyMs(99.9), latencyMs(100),
+                    upstream.totalRequests, upstream.ok, upstream.notFound, upstream.rateLimited,
+                    upstream.serverErrors, amplification());
+        }
+    }
+
+    public static class Builder {
+        private WeatherSDK sdk;
+        private OpenWeatherMapSimulator simulator;
+        private double requestsPerSecond = 200;
+        private long durationMs = 30_000;
+        private long warmupMs = 0;
+        private int workerThreads = 64;
+        private int keyCount;
+        private double zipfExponent = 1.0;
+
+        public Builder sdk(WeatherSDK sdk) {
+            this.sdk = sdk;
+            return this;
+        }
+
+        /**
+         * The simulator the SDK is pointed at; its counters are used to measure upstream calls.
+         */
+        public Builder simulator(OpenWeatherMapSimulator simulator) {
+            this.simulator = simulator;
+            return this;
+        }
+
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public Builder durationMs(long durationMs) {
+            this.durationMs = durationMs;
+            return this;
+        }
+
+        /**
+         * Load issued before the measured phase to warm up the JVM, connections and thread pools.
+         * Its latencies and upstream calls are excluded from the report.
+         */
+        public Builder warmupMs(long warmupMs) {
+            this.warmupMs = warmupMs;
+            return this;
+        }
+
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /**
+         * Number of distinct cities to request; defaults to every city the simulator knows
+         * and cannot exceed that number.
+         */
+        public Builder keyCount(int keyCount) {
+            this.keyCount = keyCount;
+            return this;
+        }
+
+        public Builder zipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        public LoadGenerator build() {
+            return new LoadGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.muruz.weather.loadtest;
+
+import com.muruz.weather.WeatherSDK;
+import com.muruz.weather.WeatherSDKConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadGeneratorTest {
+    private static OpenWeatherMapSimulator simulator;
+
+    @BeforeAll
+    static void startSimulator() throws Exception {
+        simulator = OpenWeatherMapSimulator.builder()
+                .cityCount(50)
+                .latency(0, 0)
+                .build();
+        simulator.start();
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        simulator.stop();
+    }
+
+    private static LoadGenerator.Report report(long[] sortedNanos, long requests, long upstreamCalls) {
+        OpenWeatherMapSimulator.Stats upstream = new OpenWeatherMapSimulator.Stats(upstreamCalls, upstreamCalls, 0, 0, 0, 0);
+        return new LoadGenerator.Report(WeatherSDK.Mode.ON_DEMAND, 100, requests, requests,
+                Collections.emptyMap(), 1_000_000_000L, sortedNanos, upstream);
+    }
+
+    @Test
+    void latencyPercentilesUseNearestRank() {
+        long[] nanos = new long[100];
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = (i + 1) * 1_000_000L;
+        }
+        LoadGenerator.Report report = report(nanos, 100, 25);
+
+        assertEquals(1.0, report.latencyMs(0));
+        assertEquals(50.0, report.latencyMs(50));
+        assertEquals(90.0, report.latencyMs(90));
+        assertEquals(99.0, report.latencyMs(99));
+        assertEquals(100.0, report.latencyMs(99.9));
+        assertEquals(100.0, report.latencyMs(100));
+        assertEquals(100.0, report.throughput(), 1e-9);
+        assertEquals(0.25, report.amplification(), 1e-9);
+    }
+
+    @Test
+    void latencyOfEmptyReportIsNaN() {
+        assertTrue(Double.isNaN(report(new long[0], 0, 0).latencyMs(50)));
+    }
+
+    @Test
+    void runReportsOnlyTheMeasuredPhase() throws Exception {
+        WeatherSDK sdk = WeatherSDK.getInstance(WeatherSDKConfig.builder()
+                .apiKey("load-generator-test")
+                .mode(WeatherSDK.Mode.ON_DEMAND)
+                .baseUrl(simulator.getBaseUrl())
+                .build());
+        try {
+            LoadGenerator.Report report = LoadGenerator.builder()
+                    .sdk(sdk)
+                    .simulator(simulator)
+                    .requestsPerSecond(200)
+                    .warmupMs(500)
+                    .durationMs(250)
+                    .workerThreads(4)
+                    .keyCount(5)
+                    .zipfExponent(0)
+                    .build()
+                    .run();
+
+            assertEquals(50, report.requests);
+            assertEquals(50, report.successes);
+            assertTrue(report.failures.isEmpty());
+            // 100 uniform warmup requests have cached all five cities, so the measured phase needs no upstream calls.
+            assertEquals(0, report.upstream.totalRequests);
+            assertEquals(0.0, report.amplification());
+        } finally {
+            sdk.destroy();
+        }
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(NullPointerException.class,
+                () -> LoadGenerator.builder().sdk(null).simulator(simulator).build());
+        WeatherSDK sdk = WeatherSDK.getInstance(WeatherSDKConfig.builder()
+                .apiKey("load-generator-validation")
+                .mode(WeatherSDK.Mode.ON_DEMAND)
+                .baseUrl(simulator.getBaseUrl())
+                .build());
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> LoadGenerator.builder().sdk(sdk).simulator(simulator).keyCount(51).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> LoadGenerator.builder().sdk(sdk).simulator(simulator).keyCount(-1).build());
+            assertThrows(IllegalArgumentException.class,
+                    () -> LoadGenerator.builder().sdk(sdk).simulator(simulator).warmupMs(-1).build());
+            assertDoesNotThrow(() -> LoadGenerator.builder().sdk(sdk).simulator(simulator).keyCount(50).build());
+        } finally {
+            sdk.destroy();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.muruz.weather.loadtest;
+
+import com.muruz.weather.WeatherSDK;
+import com.muruz.weather.WeatherSDK.Mode;
+import com.muruz.weather.WeatherSDKConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Offline capacity test: starts a local {@link OpenWeatherMapSimulator} and drives the SDK
+ * with a {@link LoadGenerator} in both ON_DEMAND and POLLING modes.
+ * Options are passed as {@code key=value} arguments, e.g.
+ * {@code rate=500 duration=20 warmup=5 pollInterval=5 cities=50000 zipf=1.1 latencyMedian=40 latencyP99=300 errorRate=0.01 rateLimit=0}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int cities = Integer.parseInt(options.getOrDefault("cities", "20000"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        long durationMs = Long.parseLong(options.getOrDefault("duration", "30")) * 1000;
+        long warmupMs = Long.parseLong(options.getOrDefault("warmup", "5")) * 1000;
+        int threads = Integer.parseInt(options.getOrDefault("threads", "64"));
+        double zipf = Double.parseDouble(options.getOrDefault("zipf", "1.0"));
+        long pollIntervalMs = Long.parseLong(options.getOrDefault("pollInterval", "10")) * 1000;
+        if (durationMs < pollIntervalMs) {
+            System.err.printf("Warning: duration (%d s) is shorter than the poll interval (%d s); "
+                    + "POLLING results will not include any refresh traffic.%n", durationMs / 1000, pollIntervalMs / 1000);
+        }
+
+        OpenWeatherMapSimulator simulator = OpenWeatherMapSimulator.builder()
+                .port(Integer.parseInt(options.getOrDefault("port", "0")))
+                .cityCount(cities)
+                .latency(Long.parseLong(options.getOrDefault("latencyMedian", "40")),
+                        Long.parseLong(options.getOrDefault("latencyP99", "250")))
+                .serverErrorRate(Double.parseDouble(options.getOrDefault("errorRate", "0")))
+                .rateLimitPerSecond(Integer.parseInt(options.getOrDefault("rateLimit", "0")))
+                .build();
+        simulator.start();
+        System.out.println("Simulator listening at " + simulator.getBaseUrl());
+        System.out.printf("Load: %.1f req/s for %d s (after %d s warmup) over %d cities (zipf exponent %.2f), %d worker threads, "
+                        + "poll interval %d s%n%n",
+                rate, durationMs / 1000, warmupMs / 1000, cities, zipf, threads, pollIntervalMs / 1000);
+
+        try {
+            for (Mode mode : Mode.values()) {
+                WeatherSDKConfig config = WeatherSDKConfig.builder()
+                        .apiKey("loadtest-" + mode.name().toLowerCase())
+                        .mode(mode)
+                        .baseUrl(simulator.getBaseUrl())
+                        .pollIntervalMs(pollIntervalMs)
+                        .build();
+                WeatherSDK sdk = WeatherSDK.getInstance(config);
+                try {
+                    LoadGenerator.Report report = LoadGenerator.builder()
+                            .sdk(sdk)
+                            .simulator(simulator)
+                            .requestsPerSecond(rate)
+                            .durationMs(durationMs)
+                            .warmupMs(warmupMs)
+                            .workerThreads(threads)
+                            .zipfExponent(zipf)
+                            .build()
+                            .run();
+                    System.out.println(report);
+                    System.out.println();
+                } finally {
+                    sdk.destroy();
+                }
+            }
+        } finally {
+            simulator.stop();
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            if (idx <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got: " + arg);
+            }
+            options.put(arg.substring(0, idx), arg.substring(idx + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,450 @@
+package com.muruz.weather.loadtest;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the OpenWeatherMap current weather endpoint, used for offline load testing.
+ * Serves deterministic payloads for a configurable number of synthetic cities
+ * ({@code City-00000}, {@code City-00001}, ...) and simulates upstream latency, 5xx errors and rate limiting.
+ */
+public class OpenWeatherMapSimulator {
+    private static final Logger logger = LoggerFactory.getLogger(OpenWeatherMapSimulator.class);
+    private static final String PATH = "/data/2.5/weather";
+    private static final double Z_99 = 2.326;
+
+    static {
+        // The JDK server leaves TCP_NODELAY off, so Nagle's algorithm combined with delayed ACKs would
+        // add ~40 ms to every loopback response. The property is read once, when the first server is created.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final int port;
+    private final int cityCount;
+    private final long latencyMedianMs;
+    private final long latencyP99Ms;
+    private final double serverErrorRate;
+    private final int rateLimitPerSecond;
+    private final String requiredApiKey;
+    private final Gson gson = new Gson();
+
+    private final AtomicLong totalRequests = new AtomicLong();
+    private final AtomicLong okResponses = new AtomicLong();
+    private final AtomicLong notFoundResponses = new AtomicLong();
+    private final AtomicLong unauthorizedResponses = new AtomicLong();
+    private final AtomicLong rateLimitedResponses = new AtomicLong();
+    private final AtomicLong serverErrorResponses = new AtomicLong();
+
+    private final Object rateLimitLock = new Object();
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private OpenWeatherMapSimulator(Builder builder) {
+        if (builder.cityCount <= 0) {
+            throw new IllegalArgumentException("City count must be positive.");
+        }
+        if (builder.latencyMedianMs < 0) {
+            throw new IllegalArgumentException("Latency median cannot be negative.");
+        }
+        if (builder.latencyP99Ms < builder.latencyMedianMs) {
+            throw new IllegalArgumentException("Latency p99 must be greater than or equal to the median.");
+        }
+        if (builder.latencyP99Ms > 0 && builder.latencyMedianMs == 0) {
+            throw new IllegalArgumentException("Latency median must be positive when p99 is positive.");
+        }
+        if (builder.serverErrorRate < 0 || builder.serverErrorRate > 1) {
+            throw new IllegalArgumentException("Server error rate must be between 0 and 1.");
+        }
+        if (builder.port < 0 || builder.port > 65535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535.");
+        }
+        if (builder.rateLimitPerSecond < 0) {
+            throw new IllegalArgumentException("Rate limit cannot be negative.");
+        }
+        this.port = builder.port;
+        this.cityCount = builder.cityCount;
+        this.latencyMedianMs = builder.latencyMedianMs;
+        this.latencyP99Ms = builder.latencyP99Ms;
+        this.serverErrorRate = builder.serverErrorRate;
+        this.rateLimitPerSecond = builder.rateLimitPerSecond;
+        this.requiredApiKey = builder.requiredApiKey;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the synthetic name of the city with the given index.
+     */
+    public static String cityName(int index) {
+        return String.format(Locale.ROOT, "City-%05d", index);
+    }
+
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        availableTokens = rateLimitPerSecond;
+        lastRefillNanos = System.nanoTime();
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "WeatherSimulator-Worker");
+            t.setDaemon(true);
+            return t;
+        });
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.createContext(PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Weather simulator started at {} with {} cities.", getBaseUrl(), cityCount);
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        executor = null;
+        logger.info("Weather simulator stopped.");
+    }
+
+    /**
+     * @return The URL to pass to {@code WeatherSDKConfig.Builder#baseUrl}.
+     */
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Simulator is not running.");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort() + PATH;
+    }
+
+    public int getCityCount() {
+        return cityCount;
+    }
+
+    public Stats getStats() {
+        return new Stats(totalRequests.get(), okResponses.get(), notFoundResponses.get(),
+                unauthorizedResponses.get(), rateLimitedResponses.get(), serverErrorResponses.get());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            totalRequests.incrementAndGet();
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            sleepMillis(sampleLatencyMs());
+
+            String apiKey = params.get("appid");
+            if (apiKey == null || apiKey.isEmpty() || (requiredApiKey != null && !requiredApiKey.equals(apiKey))) {
+                unauthorizedResponses.incrementAndGet();
+                sendError(exchange, 401, "Invalid API key. Please see https://openweathermap.org/faq#error401 for more info.");
+                return;
+            }
+            if (!tryAcquirePermit()) {
+                rateLimitedResponses.incrementAndGet();
+                sendError(exchange, 429, "Your account is temporary blocked due to exceeding of requests limitation of your subscription type.");
+                return;
+            }
+            int cityIndex = cityIndex(params.get("q"));
+            if (cityIndex < 0) {
+                notFoundResponses.incrementAndGet();
+                sendError(exchange, 404, "city not found");
+                return;
+            }
+            if (serverErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < serverErrorRate) {
+                serverErrorResponses.incrementAndGet();
+                sendError(exchange, 503, "Service Unavailable");
+                return;
+            }
+            okResponses.incrementAndGet();
+            send(exchange, 200, gson.toJson(buildPayload(cityIndex, "imperial".equals(params.get("units")))));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private int cityIndex(String query) {
+        if (query == null) {
+            return -1;
+        }
+        String name = query.split(",", 2)[0].trim();
+        if (!name.regionMatches(true, 0, "City-", 0, 5)) {
+            return -1;
+        }
+        try {
+            int index = Integer.parseInt(name.substring(5));
+            return index >= 0 && index < cityCount ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Samples a log-normal latency whose median and 99th percentile match the configured values.
+     */
+    private long sampleLatencyMs() {
+        if (latencyP99Ms == 0) {
+            return 0;
+        }
+        double sigma = Math.log((double) latencyP99Ms / latencyMedianMs) / Z_99;
+        return Math.round(latencyMedianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private boolean tryAcquirePermit() {
+        if (rateLimitPerSecond <= 0) {
+            return true;
+        }
+        synchronized (rateLimitLock) {
+            long now = System.nanoTime();
+            availableTokens = Math.min(rateLimitPerSecond,
+                    availableTokens + (now - lastRefillNanos) * rateLimitPerSecond / 1e9);
+            lastRefillNanos = now;
+            if (availableTokens >= 1) {
+                availableTokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private JsonObject buildPayload(int cityIndex, boolean imperial) {
+        // Seeded per city so that repeated requests describe the same place.
+        Random random = new Random(cityIndex * 31L + 17);
+        long now = System.currentTimeMillis() / 1000;
+        int timezone = (random.nextInt(25) - 12) * 3600;
+        double baseTemp = -10 + random.nextDouble() * 40;
+        // Drift slowly over time so that refreshed data is observably different.
+        double temp = baseTemp + 2 * Math.sin(now / 600.0 + cityIndex);
+        double windSpeed = Math.round(random.nextDouble() * 150) / 10.0;
+        if (imperial) {
+            temp = temp * 9 / 5 + 32;
+            windSpeed = Math.round(windSpeed * 22.37) / 10.0;
+        }
+        String[][] conditions = {
+                {"800", "Clear", "clear sky", "01d"},
+                {"802", "Clouds", "scattered clouds", "03d"},
+                {"804", "Clouds", "overcast clouds", "04d"},
+                {"500", "Rain", "light rain", "10d"},
+                {"600", "Snow", "light snow", "13d"},
+                {"701", "Mist", "mist", "50d"}
+        };
+        String[] condition = conditions[random.nextInt(conditions.length)];
+
+        JsonObject coord = new JsonObject();
+        coord.addProperty("lon", Math.round((random.nextDouble() * 360 - 180) * 10000) / 10000.0);
+        coord.addProperty("lat", Math.round((random.nextDouble() * 180 - 90) * 10000) / 10000.0);
+
+        JsonObject weather = new JsonObject();
+        weather.addProperty("id", Integer.parseInt(condition[0]));
+        weather.addProperty("main", condition[1]);
+        weather.addProperty("description", condition[2]);
+        weather.addProperty("icon", condition[3]);
+        JsonArray weatherArray = new JsonArray();
+        weatherArray.add(weather);
+
+        JsonObject main = new JsonObject();
+        main.addProperty("temp", round2(temp));
+        main.addProperty("feels_like", round2(temp - random.nextDouble() * 3));
+        main.addProperty("temp_min", round2(temp - 1.5));
+        main.addProperty("temp_max", round2(temp + 1.5));
+        main.addProperty("pressure", 990 + random.nextInt(40));
+        main.addProperty("humidity", 30 + random.nextInt(70));
+
+        JsonObject wind = new JsonObject();
+        wind.addProperty("speed", windSpeed);
+        wind.addProperty("deg", random.nextInt(360));
+
+        JsonObject clouds = new JsonObject();
+        clouds.addProperty("all", random.nextInt(101));
+
+        long midnight = now - Math.floorMod(now + timezone, 86400L);
+        JsonObject sys = new JsonObject();
+        sys.addProperty("type", 2);
+        sys.addProperty("id", 2000000 + cityIndex);
+        sys.addProperty("country", "ZZ");
+        sys.addProperty("sunrise", midnight + 5 * 3600 + random.nextInt(3 * 3600));
+        sys.addProperty("sunset", midnight + 17 * 3600 + random.nextInt(3 * 3600));
+
+        JsonObject payload = new JsonObject();
+        payload.add("coord", coord);
+        payload.add("weather", weatherArray);
+        payload.addProperty("base", "stations");
+        payload.add("main", main);
+        payload.addProperty("visibility", 1000 + random.nextInt(10) * 1000);
+        payload.add("wind", wind);
+        payload.add("clouds", clouds);
+        payload.addProperty("dt", now - now % 600);
+        payload.add("sys", sys);
+        payload.addProperty("timezone", timezone);
+        payload.addProperty("id", 1000000 + cityIndex);
+        payload.addProperty("name", cityName(cityIndex));
+        payload.addProperty("cod", 200);
+        return payload;
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("cod", code);
+        body.addProperty("message", message);
+        send(exchange, code, gson.toJson(body));
+    }
+
+    private static void send(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            String key = idx >= 0 ? pair.substring(0, idx) : pair;
+            String value = idx >= 0 ? pair.substring(idx + 1) : "";
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void sleepMillis(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Snapshot of the request counters, used to compute upstream call amplification.
+     */
+    public static class Stats {
+        public final long totalRequests;
+        public final long ok;
+        public final long notFound;
+        public final long unauthorized;
+        public final long rateLimited;
+        public final long serverErrors;
+
+        Stats(long totalRequests, long ok, long notFound, long unauthorized, long rateLimited, long serverErrors) {
+            this.totalRequests = totalRequests;
+            this.ok = ok;
+            this.notFound = notFound;
+            this.unauthorized = unauthorized;
+            this.rateLimited = rateLimited;
+            this.serverErrors = serverErrors;
+        }
+
+        /**
+         * @return The counters accumulated since the given earlier snapshot.
+         */
+        public Stats since(Stats earlier) {
+            return new Stats(totalRequests - earlier.totalRequests, ok - earlier.ok, notFound - earlier.notFound,
+                    unauthorized - earlier.unauthorized, rateLimited - earlier.rateLimited,
+                    serverErrors - earlier.serverErrors);
+        }
+    }
+
+    public static class Builder {
+        private int port = 0;
+        private int cityCount = 20_000;
+        private long latencyMedianMs = 40;
+        private long latencyP99Ms = 250;
+        private double serverErrorRate = 0.0;
+        private int rateLimitPerSecond = 0;
+        private String requiredApiKey;
+
+        /**
+         * Port to listen on; 0 (the default) picks a free port.
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder cityCount(int cityCount) {
+            this.cityCount = cityCount;
+            return this;
+        }
+
+        /**
+         * Configures the log-normal response latency by its median and 99th percentile.
+         * The median must be positive unless both values are 0, which disables simulated latency.
+         */
+        public Builder latency(long medianMs, long p99Ms) {
+            this.latencyMedianMs = medianMs;
+            this.latencyP99Ms = p99Ms;
+            return this;
+        }
+
+        /**
+         * Fraction (0..1) of otherwise successful requests answered with HTTP 503.
+         */
+        public Builder serverErrorRate(double serverErrorRate) {
+            this.serverErrorRate = serverErrorRate;
+            return this;
+        }
+
+        /**
+         * Maximum accepted requests per second before answering HTTP 429; 0 disables rate limiting.
+         */
+        public Builder rateLimitPerSecond(int rateLimitPerSecond) {
+            this.rateLimitPerSecond = rateLimitPerSecond;
+            return this;
+        }
+
+        /**
+         * Only accept this API key; by default any non-empty key is accepted.
+         */
+        public Builder requiredApiKey(String requiredApiKey) {
+            this.requiredApiKey = requiredApiKey;
+            return this;
+        }
+
+        public OpenWeatherMapSimulator build() {
+            return new OpenWeatherMapSimulator(this);
+        }
+    }
+}
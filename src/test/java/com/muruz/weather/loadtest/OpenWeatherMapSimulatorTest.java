@@ -0,0 +1,137 @@
+package com.muruz.weather.loadtest;
+
+import com.muruz.weather.WeatherAPIClient;
+import com.muruz.weather.WeatherData;
+import com.muruz.weather.exceptions.APILimitExceededException;
+import com.muruz.weather.exceptions.CityNotFoundException;
+import com.muruz.weather.exceptions.InvalidApiKeyException;
+import com.muruz.weather.exceptions.WeatherSDKException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenWeatherMapSimulatorTest {
+    private OpenWeatherMapSimulator simulator;
+
+    private OpenWeatherMapSimulator start(OpenWeatherMapSimulator.Builder builder) throws Exception {
+        simulator = builder.latency(0, 0).build();
+        simulator.start();
+        return simulator;
+    }
+
+    @AfterEach
+    void stop() {
+        if (simulator != null) {
+            simulator.stop();
+        }
+    }
+
+    @Test
+    void servesParsablePayloadForKnownCity() throws Exception {
+        start(OpenWeatherMapSimulator.builder().cityCount(10));
+        WeatherAPIClient client = new WeatherAPIClient("key", simulator.getBaseUrl());
+
+        WeatherData data = client.parseWeatherData(client.fetchWeatherData("City-00003"));
+
+        assertEquals("City-00003", data.name);
+        assertNotNull(data.main);
+        assertNotNull(data.wind);
+        assertNotNull(data.sys);
+        assertEquals(1, data.weather.size());
+        assertTrue(data.sys.sunrise < data.sys.sunset);
+        assertEquals(1, simulator.getStats().ok);
+    }
+
+    @Test
+    void answersUnknownCitiesWith404() throws Exception {
+        start(OpenWeatherMapSimulator.builder().cityCount(10));
+        WeatherAPIClient client = new WeatherAPIClient("key", simulator.getBaseUrl());
+
+        assertThrows(CityNotFoundException.class, () -> client.fetchWeatherData("City-00010"));
+        assertThrows(CityNotFoundException.class, () -> client.fetchWeatherData("London"));
+        assertEquals(2, simulator.getStats().notFound);
+    }
+
+    @Test
+    void rejectsWrongApiKey() throws Exception {
+        start(OpenWeatherMapSimulator.builder().cityCount(10).requiredApiKey("secret"));
+        WeatherAPIClient client = new WeatherAPIClient("other", simulator.getBaseUrl());
+
+        assertThrows(InvalidApiKeyException.class, () -> client.fetchWeatherData("City-00001"));
+        assertEquals(1, simulator.getStats().unauthorized);
+    }
+
+    @Test
+    void rollsServerErrorsOnlyForOtherwiseSuccessfulRequests() throws Exception {
+        start(OpenWeatherMapSimulator.builder().cityCount(10).serverErrorRate(1.0));
+        WeatherAPIClient client = new WeatherAPIClient("key", simulator.getBaseUrl());
+
+        WeatherSDKException e = assertThrows(WeatherSDKException.class, () -> client.fetchWeatherData("City-00001"));
+        assertTrue(e.getMessage().contains("503"));
+        assertThrows(CityNotFoundException.class, () -> client.fetchWeatherData("Atlantis"));
+
+        OpenWeatherMapSimulator.Stats stats = simulator.getStats();
+        assertEquals(1, stats.serverErrors);
+        assertEquals(1, stats.notFound);
+    }
+
+    @Test
+    void rateLimitsOnceTokensAreExhausted() throws Exception {
+        start(OpenWeatherMapSimulator.builder().cityCount(10).rateLimitPerSecond(5));
+        WeatherAPIClient client = new WeatherAPIClient("key", simulator.getBaseUrl());
+
+        int limited = 0;
+        for (int i = 0; i < 20; i++) {
+            try {
+                client.fetchWeatherData("City-00001");
+            } catch (APILimitExceededException e) {
+                limited++;
+            }
+        }
+
+        OpenWeatherMapSimulator.Stats stats = simulator.getStats();
+        assertEquals(limited, stats.rateLimited);
+        assertEquals(20, stats.ok + stats.rateLimited);
+        assertTrue(stats.ok >= 5, "burst of 5 should be allowed, got " + stats.ok);
+        assertTrue(limited > 0, "requests beyond the limit should get 429");
+    }
+
+    @Test
+    void statsSinceSubtractsEarlierSnapshot() {
+        OpenWeatherMapSimulator.Stats earlier = new OpenWeatherMapSimulator.Stats(10, 5, 1, 1, 2, 1);
+        OpenWeatherMapSimulator.Stats later = new OpenWeatherMapSimulator.Stats(25, 12, 2, 1, 6, 4);
+
+        OpenWeatherMapSimulator.Stats delta = later.since(earlier);
+
+        assertEquals(15, delta.totalRequests);
+        assertEquals(7, delta.ok);
+        assertEquals(1, delta.notFound);
+        assertEquals(0, delta.unauthorized);
+        assertEquals(4, delta.rateLimited);
+        assertEquals(3, delta.serverErrors);
+    }
+
+    @Test
+    void validatesLatency() {
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().latency(-1, 10).build());
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().latency(50, 10).build());
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().latency(0, 10).build());
+        assertDoesNotThrow(() -> OpenWeatherMapSimulator.builder().latency(0, 0).build());
+        assertDoesNotThrow(() -> OpenWeatherMapSimulator.builder().latency(10, 10).build());
+    }
+
+    @Test
+    void validatesOtherSettings() {
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().cityCount(0).build());
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().serverErrorRate(1.5).build());
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().rateLimitPerSecond(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> OpenWeatherMapSimulator.builder().port(-1).build());
+    }
+
+    @Test
+    void formatsCityNames() {
+        assertEquals("City-00000", OpenWeatherMapSimulator.cityName(0));
+        assertEquals("City-12345", OpenWeatherMapSimulator.cityName(12345));
+    }
+}
@@ -0,0 +1,37 @@
+package com.muruz.weather.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent.
+ * Rank 0 is the most popular key.
+ */
+public class ZipfDistribution {
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Number of elements must be positive.");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent cannot be negative.");
+        }
+        this.cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int sample() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        int idx = Arrays.binarySearch(cumulative, u);
+        int rank = idx >= 0 ? idx : -idx - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
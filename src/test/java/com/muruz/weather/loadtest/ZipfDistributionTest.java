@@ -0,0 +1,50 @@
+package com.muruz.weather.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfDistributionTest {
+    private static final int SAMPLES = 200_000;
+
+    private static int[] histogram(ZipfDistribution zipf, int n) {
+        int[] counts = new int[n];
+        for (int i = 0; i < SAMPLES; i++) {
+            int rank = zipf.sample();
+            assertTrue(rank >= 0 && rank < n, "rank out of bounds: " + rank);
+            counts[rank]++;
+        }
+        return counts;
+    }
+
+    @Test
+    void samplesStayWithinBounds() {
+        histogram(new ZipfDistribution(1, 1.0), 1);
+        histogram(new ZipfDistribution(50, 2.0), 50);
+    }
+
+    @Test
+    void favoursLowRanks() {
+        int[] counts = histogram(new ZipfDistribution(1000, 1.0), 1000);
+
+        assertTrue(counts[0] > counts[1]);
+        assertTrue(counts[1] > counts[10]);
+        // With s = 1 rank 0 is twice as likely as rank 1.
+        assertEquals(2.0, (double) counts[0] / counts[1], 0.15);
+    }
+
+    @Test
+    void exponentZeroIsUniform() {
+        int[] counts = histogram(new ZipfDistribution(10, 0.0), 10);
+
+        for (int count : counts) {
+            assertEquals(SAMPLES / 10.0, count, SAMPLES / 10.0 * 0.1);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution(10, -0.5));
+    }
+}